@@ -0,0 +1,135 @@
+package com.runspot.app;
+
+/**
+ * NavigationHudView 용 char[] 숫자 포맷팅 (할당 없음)
+ *
+ * 모든 write* 메서드는 buf 의 pos 위치부터 쓰고, 쓴 다음 위치를 반환한다.
+ */
+final class HudFormat {
+
+    /** 필드 하나의 char[] 버퍼 크기 */
+    static final int BUFFER_SIZE = 12;
+
+    // 버퍼를 넘지 않도록 표시 가능한 최대값으로 제한
+    static final int MAX_SPEED_KMH = 999;
+    static final long MAX_DISTANCE_TENTHS = 99_999L;    // "9999.9"
+    static final long MAX_PACE_SECONDS = 99 * 60 + 59;  // "99'59\""
+    static final long MAX_CLOCK_SECONDS = 99 * 3600 + 59 * 60 + 59;  // "99:59:59"
+
+    private HudFormat() {
+    }
+
+    /**
+     * 속도를 정수 km/h 로 변환 (NaN / 음수는 0, 최대 999)
+     */
+    static int speedKmh(float speedKmh) {
+        return speedKmh > 0f ? (int) Math.min(speedKmh, MAX_SPEED_KMH) : 0;
+    }
+
+    /**
+     * 남은 거리(m)를 0.1 km 단위 정수로 반올림 (9950m -> 100 = "10.0", 무한대는 최대값)
+     */
+    static long distanceTenths(double meters) {
+        return meters > 0.0 ? Math.min(Math.round(meters / 100.0), MAX_DISTANCE_TENTHS) : 0L;
+    }
+
+    /**
+     * 페이스 초 제한 (음수는 -1 = 값 없음)
+     */
+    static long clampPaceSeconds(long secondsPerKm) {
+        return secondsPerKm < 0 ? -1L : Math.min(secondsPerKm, MAX_PACE_SECONDS);
+    }
+
+    /**
+     * 시간 초 제한 (음수는 -1 = 값 없음)
+     */
+    static long clampClockSeconds(long seconds) {
+        return seconds < 0 ? -1L : Math.min(seconds, MAX_CLOCK_SECONDS);
+    }
+
+    /**
+     * 0.1 km 단위 거리 ("12.3")
+     */
+    static int writeDistance(char[] buf, int pos, long tenths) {
+        tenths = Math.max(0L, Math.min(tenths, MAX_DISTANCE_TENTHS));
+        pos = writeInt(buf, pos, tenths / 10);
+        buf[pos++] = '.';
+        buf[pos++] = (char) ('0' + tenths % 10);
+        return pos;
+    }
+
+    /**
+     * 페이스 (m'ss"). 음수이면 "--'--"
+     */
+    static int writePace(char[] buf, int pos, long secondsPerKm) {
+        if (secondsPerKm < 0) {
+            return writePlaceholder(buf, pos, '\'');
+        }
+        secondsPerKm = Math.min(secondsPerKm, MAX_PACE_SECONDS);
+        pos = writeInt(buf, pos, secondsPerKm / 60);
+        buf[pos++] = '\'';
+        pos = writeTwoDigits(buf, pos, secondsPerKm % 60);
+        buf[pos++] = '"';
+        return pos;
+    }
+
+    /**
+     * 시간 (m:ss, 1시간 이상이면 h:mm:ss). 음수이면 "--:--"
+     */
+    static int writeClock(char[] buf, int pos, long totalSeconds) {
+        if (totalSeconds < 0) {
+            return writePlaceholder(buf, pos, ':');
+        }
+        totalSeconds = Math.min(totalSeconds, MAX_CLOCK_SECONDS);
+        long hours = totalSeconds / 3600;
+        long minutes = (totalSeconds / 60) % 60;
+        long seconds = totalSeconds % 60;
+        if (hours > 0) {
+            pos = writeInt(buf, pos, hours);
+            buf[pos++] = ':';
+            pos = writeTwoDigits(buf, pos, minutes);
+        } else {
+            pos = writeInt(buf, pos, minutes);
+        }
+        buf[pos++] = ':';
+        return writeTwoDigits(buf, pos, seconds);
+    }
+
+    /**
+     * 음이 아닌 정수
+     */
+    static int writeInt(char[] buf, int pos, long value) {
+        if (value < 10) {
+            buf[pos] = (char) ('0' + value);
+            return pos + 1;
+        }
+        int digits = 0;
+        for (long v = value; v > 0; v /= 10) {
+            digits++;
+        }
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    static int writeTwoDigits(char[] buf, int pos, long value) {
+        buf[pos] = (char) ('0' + value / 10);
+        buf[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    /**
+     * 값이 없을 때의 자리 표시 ("--" + separator + "--")
+     */
+    static int writePlaceholder(char[] buf, int pos, char separator) {
+        buf[pos++] = '-';
+        buf[pos++] = '-';
+        buf[pos++] = separator;
+        buf[pos++] = '-';
+        buf[pos++] = '-';
+        return pos;
+    }
+}
@@ -11,8 +11,6 @@ import android.util.Log;
 import android.view.Gravity;
 import android.view.ViewGroup;
 import android.widget.FrameLayout;
-import android.widget.LinearLayout;
-import android.widget.TextView;
 import androidx.appcompat.app.AppCompatActivity;
 import com.mapbox.android.core.permissions.PermissionsListener;
 import com.mapbox.android.core.permissions.PermissionsManager;
@@ -36,6 +34,7 @@ import com.mapbox.navigation.ui.maps.route.line.api.MapboxRouteLineApi;
 import com.mapbox.navigation.ui.maps.route.line.api.MapboxRouteLineView;
 import com.mapbox.navigation.ui.maps.route.line.model.MapboxRouteLineOptions;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.runspot.geometry.GeoMath;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -53,13 +52,11 @@ public class MapboxNavigationActivity extends AppCompatActivity implements Permi
     
     // UI 컴포넌트들 (동적 생성)
     private FrameLayout rootContainer;
-    private LinearLayout statusContainer;
-    private TextView speedText;
-    private TextView distanceText;
-    private TextView directionText;
+    private NavigationHudView hudView;
     
     // 데이터
     private List<Point> routePoints = new ArrayList<>();
+    private double courseDistanceMeters;
     private JSONObject navigationData;
     private PermissionsManager permissionsManager;
     
@@ -94,6 +91,9 @@ public class MapboxNavigationActivity extends AppCompatActivity implements Permi
         // UI 동적 생성 (XML 없음)
         createDynamicUI();
         
+        // 경로 진행률이 들어오기 전까지 코스 전체 거리 표시
+        hudView.setDistanceRemainingMeters(courseDistanceMeters);
+        
         // Mapbox Navigation 초기화
         initializeMapboxNavigation();
         
@@ -147,47 +147,19 @@ public class MapboxNavigationActivity extends AppCompatActivity implements Permi
         }
         rootContainer.addView(mapView);
         
-        // 상태 정보 컨테이너
-        statusContainer = new LinearLayout(this);
-        FrameLayout.LayoutParams statusParams = new FrameLayout.LayoutParams(
+        // 상태 정보 HUD (속도 / 남은 거리 / 방향)
+        hudView = new NavigationHudView(this);
+        FrameLayout.LayoutParams hudParams = new FrameLayout.LayoutParams(
             FrameLayout.LayoutParams.MATCH_PARENT,
             FrameLayout.LayoutParams.WRAP_CONTENT
         );
-        statusParams.gravity = Gravity.TOP;
-        statusParams.setMargins(32, 100, 32, 0);
-        statusContainer.setLayoutParams(statusParams);
-        statusContainer.setOrientation(LinearLayout.HORIZONTAL);
-        statusContainer.setBackgroundColor(Color.parseColor("#80000000"));
-        statusContainer.setPadding(32, 24, 32, 24);
-        
-        // 속도 표시
-        speedText = new TextView(this);
-        speedText.setLayoutParams(new LinearLayout.LayoutParams(0, LinearLayout.LayoutParams.WRAP_CONTENT, 1f));
-        speedText.setText("0 km/h");
-        speedText.setTextSize(16f);
-        speedText.setTextColor(Color.WHITE);
-        speedText.setGravity(Gravity.CENTER);
-        statusContainer.addView(speedText);
-        
-        // 남은 거리 표시
-        distanceText = new TextView(this);
-        distanceText.setLayoutParams(new LinearLayout.LayoutParams(0, LinearLayout.LayoutParams.WRAP_CONTENT, 1f));
-        distanceText.setText("0 km");
-        distanceText.setTextSize(16f);
-        distanceText.setTextColor(Color.WHITE);
-        distanceText.setGravity(Gravity.CENTER);
-        statusContainer.addView(distanceText);
-        
-        // 방향 표시
-        directionText = new TextView(this);
-        directionText.setLayoutParams(new LinearLayout.LayoutParams(0, LinearLayout.LayoutParams.WRAP_CONTENT, 1f));
-        directionText.setText("N");
-        directionText.setTextSize(16f);
-        directionText.setTextColor(Color.WHITE);
-        directionText.setGravity(Gravity.CENTER);
-        statusContainer.addView(directionText);
+        hudParams.gravity = Gravity.TOP;
+        hudParams.setMargins(32, 100, 32, 0);
+        hudView.setLayoutParams(hudParams);
+        hudView.setBackgroundColor(Color.parseColor("#80000000"));
+        hudView.setPadding(32, 24, 32, 24);
         
-        rootContainer.addView(statusContainer);
+        rootContainer.addView(hudView);
         
         // 루트 뷰 설정
         setContentView(rootContainer);
@@ -301,13 +273,9 @@ public class MapboxNavigationActivity extends AppCompatActivity implements Permi
                     null
                 );
                 
-                // 속도 업데이트
-                int speedKmh = (int) (location.getSpeed() * 3.6f);
-                speedText.setText(speedKmh + " km/h");
-                
-                // 방향 업데이트
-                int bearing = (int) location.getBearing();
-                directionText.setText(bearing + "°");
+                // 속도 / 방향 업데이트 (값이 바뀐 경우에만 다시 그림)
+                hudView.setSpeedKmh(location.getSpeed() * 3.6f);
+                hudView.setBearing(location.getBearing());
                 
                 // 카메라 업데이트 (헤딩업 모드)
                 updateCamera(location);
@@ -318,11 +286,7 @@ public class MapboxNavigationActivity extends AppCompatActivity implements Permi
         mapboxNavigation.registerRouteProgressObserver(new RouteProgressObserver() {
             @Override
             public void onRouteProgressChanged(com.mapbox.navigation.base.trip.model.RouteProgress routeProgress) {
-                double remainingDistance = routeProgress.getDistanceRemaining();
-                String distanceKm = String.format("%.1f km", remainingDistance / 1000.0);
-                distanceText.setText(distanceKm);
-                
-                Log.d(TAG, "📊 진행률 업데이트 - 남은 거리: " + distanceKm);
+                hudView.setDistanceRemainingMeters(routeProgress.getDistanceRemaining());
             }
         });
     }
@@ -422,12 +386,21 @@ public class MapboxNavigationActivity extends AppCompatActivity implements Permi
             // Capacitor 플러그인에서 전달된 waypoints 파싱
             if (navigationData.has("waypoints")) {
                 JSONArray waypoints = navigationData.getJSONArray("waypoints");
+                double prevLat = 0;
+                double prevLng = 0;
                 
                 for (int i = 0; i < waypoints.length(); i++) {
                     JSONObject waypoint = waypoints.getJSONObject(i);
                     double lat = waypoint.getDouble("latitude");
                     double lng = waypoint.getDouble("longitude");
                     routePoints.add(Point.fromLngLat(lng, lat));
+                    
+                    // 코스 전체 거리 누적 (HUD 초기 남은 거리)
+                    if (i > 0) {
+                        courseDistanceMeters += GeoMath.distanceMeters(prevLat, prevLng, lat, lng);
+                    }
+                    prevLat = lat;
+                    prevLng = lng;
                 }
                 
                 Log.d(TAG, "✅ Capacitor waypoints 파싱 완료: " + routePoints.size() + "개 포인트");
@@ -0,0 +1,290 @@
+package com.runspot.app;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.util.TypedValue;
+import android.view.View;
+import android.view.accessibility.AccessibilityNodeInfo;
+
+/**
+ * 네비게이션 상단 상태 표시줄 (속도 / 남은 거리 / 방향 + 페이스 / 경과 시간 / 구간 기록)
+ *
+ * TextView.setText 대신 미리 할당된 char[] 버퍼에 숫자를 직접 써넣고 고정 레이아웃으로 그린다.
+ * 위치 업데이트마다 String 생성이나 measure/layout 패스가 발생하지 않으며,
+ * 화면에 표시되는 값이 실제로 바뀐 경우에만 invalidate 한다.
+ */
+public class NavigationHudView extends View {
+
+    public static final int FIELD_SPEED = 0;
+    public static final int FIELD_DISTANCE = 1;
+    public static final int FIELD_HEADING = 2;
+    public static final int FIELD_PACE = 3;
+    public static final int FIELD_ELAPSED = 4;
+    public static final int FIELD_SPLIT = 5;
+
+    private static final int FIELD_COUNT = 6;
+    private static final long KEY_UNSET = Long.MIN_VALUE;
+    private static final long KEY_UNKNOWN = -1L;
+
+    private static final float TEXT_SIZE_SP = 16f;
+    private static final float UNIT_GAP_SP = 4f;
+
+    /**
+     * 필드 하나의 표시 상태. 버퍼와 단위 문자열은 생성 시점에만 할당된다.
+     */
+    private static final class HudField {
+        final char[] text = new char[HudFormat.BUFFER_SIZE];
+        final String unit;
+        int length;
+        long key = KEY_UNSET;
+        float unitWidth;
+
+        HudField(String unit) {
+            this.unit = unit;
+        }
+    }
+
+    private final HudField[] fields = new HudField[FIELD_COUNT];
+    private final int[] visibleFields = new int[FIELD_COUNT];
+    private int visibleCount;
+
+    private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final float unitGap;
+    private final int lineHeight;
+    private float baseline;
+    private float cellWidth;
+
+    public NavigationHudView(Context context) {
+        super(context);
+
+        textPaint.setColor(Color.WHITE);
+        // 고정폭 숫자 (자릿수가 바뀌어도 값이 좌우로 흔들리지 않도록)
+        textPaint.setFontFeatureSettings("tnum");
+        textPaint.setTextSize(TypedValue.applyDimension(
+            TypedValue.COMPLEX_UNIT_SP, TEXT_SIZE_SP, getResources().getDisplayMetrics()));
+        unitGap = TypedValue.applyDimension(
+            TypedValue.COMPLEX_UNIT_SP, UNIT_GAP_SP, getResources().getDisplayMetrics());
+
+        Paint.FontMetricsInt metrics = textPaint.getFontMetricsInt();
+        lineHeight = metrics.descent - metrics.ascent;
+
+        fields[FIELD_SPEED] = new HudField("km/h");
+        fields[FIELD_DISTANCE] = new HudField("km");
+        fields[FIELD_HEADING] = new HudField("");
+        fields[FIELD_PACE] = new HudField("/km");
+        fields[FIELD_ELAPSED] = new HudField("");
+        fields[FIELD_SPLIT] = new HudField("split");
+        for (HudField field : fields) {
+            field.unitWidth = field.unit.isEmpty() ? 0f : unitGap + textPaint.measureText(field.unit);
+        }
+
+        // 초기 표시값 (기존 TextView 초기값과 동일)
+        setSpeedKmh(0f);
+        setDistanceRemainingMeters(0.0);
+        setHeadingUnknown();
+        setPaceSecondsPerKm(-1L);
+        setElapsedSeconds(0L);
+        setSplitSeconds(-1L);
+
+        setVisibleFields(FIELD_SPEED, FIELD_DISTANCE, FIELD_HEADING);
+
+        // 캔버스에 직접 그리므로 TalkBack 용 텍스트는 노드 정보로 제공
+        setImportantForAccessibility(IMPORTANT_FOR_ACCESSIBILITY_YES);
+    }
+
+    /**
+     * 표시할 필드와 순서 지정 (레이아웃 변경 시에만 호출)
+     */
+    public void setVisibleFields(int... fieldIds) {
+        if (fieldIds.length == 0 || fieldIds.length > FIELD_COUNT) {
+            throw new IllegalArgumentException("표시 필드 개수가 올바르지 않습니다: " + fieldIds.length);
+        }
+        for (int i = 0; i < fieldIds.length; i++) {
+            if (fieldIds[i] < 0 || fieldIds[i] >= FIELD_COUNT) {
+                throw new IllegalArgumentException("알 수 없는 필드: " + fieldIds[i]);
+            }
+            visibleFields[i] = fieldIds[i];
+        }
+        visibleCount = fieldIds.length;
+        updateCellWidth(getWidth());
+        invalidate();
+    }
+
+    /**
+     * 현재 속도 (정수 km/h 단위로 표시, 최대 999)
+     */
+    public void setSpeedKmh(float speedKmh) {
+        int kmh = HudFormat.speedKmh(speedKmh);
+        HudField field = fields[FIELD_SPEED];
+        if (field.key == kmh) {
+            return;
+        }
+        field.key = kmh;
+        field.length = HudFormat.writeInt(field.text, 0, kmh);
+        invalidateField(FIELD_SPEED);
+    }
+
+    /**
+     * 남은 거리 (0.1 km 단위로 표시)
+     */
+    public void setDistanceRemainingMeters(double meters) {
+        long tenths = HudFormat.distanceTenths(meters);
+        HudField field = fields[FIELD_DISTANCE];
+        if (field.key == tenths) {
+            return;
+        }
+        field.key = tenths;
+        field.length = HudFormat.writeDistance(field.text, 0, tenths);
+        invalidateField(FIELD_DISTANCE);
+    }
+
+    /**
+     * 진행 방향 (정수 도 단위, 0-359)
+     */
+    public void setBearing(float bearing) {
+        int degrees = ((int) bearing % 360 + 360) % 360;
+        HudField field = fields[FIELD_HEADING];
+        if (field.key == degrees) {
+            return;
+        }
+        field.key = degrees;
+        int pos = HudFormat.writeInt(field.text, 0, degrees);
+        field.text[pos++] = '°';
+        field.length = pos;
+        invalidateField(FIELD_HEADING);
+    }
+
+    /**
+     * 방향 정보가 없을 때의 기본 표시 ("N")
+     */
+    public void setHeadingUnknown() {
+        HudField field = fields[FIELD_HEADING];
+        if (field.key == KEY_UNKNOWN) {
+            return;
+        }
+        field.key = KEY_UNKNOWN;
+        field.text[0] = 'N';
+        field.length = 1;
+        invalidateField(FIELD_HEADING);
+    }
+
+    /**
+     * 평균 페이스 (m'ss" /km). 음수이면 "--'--" 표시
+     */
+    public void setPaceSecondsPerKm(long secondsPerKm) {
+        HudField field = fields[FIELD_PACE];
+        long key = HudFormat.clampPaceSeconds(secondsPerKm);
+        if (field.key == key) {
+            return;
+        }
+        field.key = key;
+        field.length = HudFormat.writePace(field.text, 0, key);
+        invalidateField(FIELD_PACE);
+    }
+
+    /**
+     * 경과 시간 (m:ss, 1시간 이상이면 h:mm:ss, 최대 99:59:59)
+     */
+    public void setElapsedSeconds(long elapsedSeconds) {
+        HudField field = fields[FIELD_ELAPSED];
+        long seconds = HudFormat.clampClockSeconds(Math.max(0L, elapsedSeconds));
+        if (field.key == seconds) {
+            return;
+        }
+        field.key = seconds;
+        field.length = HudFormat.writeClock(field.text, 0, seconds);
+        invalidateField(FIELD_ELAPSED);
+    }
+
+    /**
+     * 마지막 구간(스플릿) 기록. 음수이면 "--:--" 표시
+     */
+    public void setSplitSeconds(long splitSeconds) {
+        HudField field = fields[FIELD_SPLIT];
+        long key = HudFormat.clampClockSeconds(splitSeconds);
+        if (field.key == key) {
+            return;
+        }
+        field.key = key;
+        field.length = HudFormat.writeClock(field.text, 0, key);
+        invalidateField(FIELD_SPLIT);
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        // 높이는 글꼴 크기로 고정, 값이 바뀌어도 다시 측정할 필요 없음
+        int height = lineHeight + getPaddingTop() + getPaddingBottom();
+        setMeasuredDimension(
+            getDefaultSize(getSuggestedMinimumWidth(), widthMeasureSpec),
+            resolveSize(height, heightMeasureSpec)
+        );
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        updateCellWidth(w);
+
+        Paint.FontMetricsInt metrics = textPaint.getFontMetricsInt();
+        int contentHeight = h - getPaddingTop() - getPaddingBottom();
+        baseline = getPaddingTop() + (contentHeight - lineHeight) / 2f - metrics.ascent;
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+
+        float left = getPaddingLeft();
+        for (int i = 0; i < visibleCount; i++) {
+            HudField field = fields[visibleFields[i]];
+            float valueWidth = textPaint.measureText(field.text, 0, field.length);
+            float x = left + (cellWidth - valueWidth - field.unitWidth) / 2f;
+
+            canvas.drawText(field.text, 0, field.length, x, baseline, textPaint);
+            if (field.unitWidth > 0f) {
+                canvas.drawText(field.unit, x + valueWidth + unitGap, baseline, textPaint);
+            }
+            left += cellWidth;
+        }
+    }
+
+    /**
+     * TalkBack 이 노드를 조회할 때만 버퍼로부터 텍스트 생성 (일반 프레임 경로에는 할당 없음)
+     */
+    @Override
+    public void onInitializeAccessibilityNodeInfo(AccessibilityNodeInfo info) {
+        super.onInitializeAccessibilityNodeInfo(info);
+
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < visibleCount; i++) {
+            HudField field = fields[visibleFields[i]];
+            if (i > 0) {
+                description.append(", ");
+            }
+            description.append(field.text, 0, field.length);
+            if (!field.unit.isEmpty()) {
+                description.append(' ').append(field.unit);
+            }
+        }
+        info.setContentDescription(description);
+    }
+
+    private void updateCellWidth(int width) {
+        int contentWidth = width - getPaddingLeft() - getPaddingRight();
+        cellWidth = visibleCount > 0 ? (float) contentWidth / visibleCount : 0f;
+    }
+
+    /**
+     * 화면에 표시 중인 필드가 바뀐 경우에만 다시 그림
+     */
+    private void invalidateField(int fieldId) {
+        for (int i = 0; i < visibleCount; i++) {
+            if (visibleFields[i] == fieldId) {
+                invalidate();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.runspot.app;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class HudFormatTest {
+
+    private final char[] buf = new char[HudFormat.BUFFER_SIZE];
+
+    private String text(int length) {
+        return new String(buf, 0, length);
+    }
+
+    @Test
+    public void writeInt_zeroAndMultiDigit() {
+        assertEquals("0", text(HudFormat.writeInt(buf, 0, 0)));
+        assertEquals("9", text(HudFormat.writeInt(buf, 0, 9)));
+        assertEquals("10", text(HudFormat.writeInt(buf, 0, 10)));
+        assertEquals("359", text(HudFormat.writeInt(buf, 0, 359)));
+    }
+
+    @Test
+    public void distance_roundsToTenthsOfKm() {
+        assertEquals("0.0", text(HudFormat.writeDistance(buf, 0, HudFormat.distanceTenths(0))));
+        assertEquals("0.0", text(HudFormat.writeDistance(buf, 0, HudFormat.distanceTenths(-5))));
+        assertEquals("9.9", text(HudFormat.writeDistance(buf, 0, HudFormat.distanceTenths(9949))));
+        assertEquals("10.0", text(HudFormat.writeDistance(buf, 0, HudFormat.distanceTenths(9950))));
+        assertEquals("4.1", text(HudFormat.writeDistance(buf, 0, HudFormat.distanceTenths(4069))));
+    }
+
+    @Test
+    public void clock_switchesToHoursAtOneHour() {
+        assertEquals("0:00", text(HudFormat.writeClock(buf, 0, 0)));
+        assertEquals("59:59", text(HudFormat.writeClock(buf, 0, 3599)));
+        assertEquals("1:00:00", text(HudFormat.writeClock(buf, 0, 3600)));
+        assertEquals("10:05:09", text(HudFormat.writeClock(buf, 0, 36309)));
+    }
+
+    @Test
+    public void pace_formatsMinutesAndSeconds() {
+        assertEquals("0'00\"", text(HudFormat.writePace(buf, 0, 0)));
+        assertEquals("5'07\"", text(HudFormat.writePace(buf, 0, 307)));
+    }
+
+    @Test
+    public void negativeInputs_writePlaceholder() {
+        assertEquals("--'--", text(HudFormat.writePace(buf, 0, -1)));
+        assertEquals("--:--", text(HudFormat.writeClock(buf, 0, -1)));
+        assertEquals("--:--", text(HudFormat.writePlaceholder(buf, 0, ':')));
+    }
+
+    @Test
+    public void hugeInputs_clampToBuffer() {
+        assertEquals(999, HudFormat.speedKmh(Float.POSITIVE_INFINITY));
+        assertEquals(0, HudFormat.speedKmh(Float.NaN));
+        assertEquals("9999.9", text(HudFormat.writeDistance(buf, 0,
+            HudFormat.distanceTenths(Double.POSITIVE_INFINITY))));
+        assertEquals("0.0", text(HudFormat.writeDistance(buf, 0, HudFormat.distanceTenths(Double.NaN))));
+        assertEquals("99:59:59", text(HudFormat.writeClock(buf, 0,
+            HudFormat.clampClockSeconds(10_000_000_000L))));
+        assertEquals("99'59\"", text(HudFormat.writePace(buf, 0,
+            HudFormat.clampPaceSeconds(Long.MAX_VALUE))));
+        assertEquals(-1L, HudFormat.clampClockSeconds(-30));
+    }
+}
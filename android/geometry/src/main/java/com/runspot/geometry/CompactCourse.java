@@ -0,0 +1,188 @@
+package com.runspot.geometry;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전처리된 코스 캐시 포맷 (.rsc)
+ *
+ * 좌표를 1e-6 도(약 11cm) 정수로 양자화한 뒤 이전 포인트와의 차이를 zigzag varint 로 저장한다.
+ * 경로 요약(RouteInfo)과 최적화된 경유지 인덱스를 함께 담아 기기에서 다시 계산할 필요가 없다.
+ *
+ * <pre>
+ * int    MAGIC ("RSC1")
+ * varint 포인트 수
+ * varint 총 거리 (m), varint 예상 시간 (분)
+ * varint x2 x 포인트 수   위도 / 경도 차이 (zigzag, 1e-6 도)
+ * varint 경유지 수, varint x 경유지 수   인덱스 차이
+ * </pre>
+ */
+public final class CompactCourse {
+
+    public static final String FILE_EXTENSION = ".rsc";
+
+    /** 읽을 수 있는 최대 포인트 수 (손상된 파일로 인한 과도한 할당 방지) */
+    public static final int MAX_POINTS = 1_000_000;
+
+    private static final int MAGIC = 0x52534331;
+    private static final double E6 = 1_000_000.0;
+
+    private final int[] latE6;
+    private final int[] lngE6;
+    private final RouteInfo routeInfo;
+    private final int[] waypointIndices;
+
+    private CompactCourse(int[] latE6, int[] lngE6, RouteInfo routeInfo, int[] waypointIndices) {
+        this.latE6 = latE6;
+        this.lngE6 = lngE6;
+        this.routeInfo = routeInfo;
+        this.waypointIndices = waypointIndices;
+    }
+
+    /**
+     * GPX 포인트로부터 캐시 생성 (경로 요약 + 최적화 경유지 계산 포함, maxWaypoints 가 0 이하이면 경유지 없음)
+     */
+    public static CompactCourse fromPoints(List<GeoPoint> route, int maxWaypoints) {
+        int size = route.size();
+        int[] lat = new int[size];
+        int[] lng = new int[size];
+        for (int i = 0; i < size; i++) {
+            lat[i] = (int) Math.round(route.get(i).lat() * E6);
+            lng[i] = (int) Math.round(route.get(i).lng() * E6);
+        }
+        return new CompactCourse(
+            lat,
+            lng,
+            RouteOptimizer.getRouteInfo(route),
+            maxWaypoints > 0 ? RouteOptimizer.optimizeWaypointIndices(route, maxWaypoints) : new int[0]
+        );
+    }
+
+    public int pointCount() {
+        return latE6.length;
+    }
+
+    public RouteInfo routeInfo() {
+        return routeInfo;
+    }
+
+    public List<GeoPoint> points() {
+        List<GeoPoint> points = new ArrayList<>(latE6.length);
+        for (int i = 0; i < latE6.length; i++) {
+            points.add(pointAt(i));
+        }
+        return points;
+    }
+
+    public List<GeoPoint> waypoints() {
+        List<GeoPoint> waypoints = new ArrayList<>(waypointIndices.length);
+        for (int index : waypointIndices) {
+            waypoints.add(pointAt(index));
+        }
+        return waypoints;
+    }
+
+    private GeoPoint pointAt(int index) {
+        return new GeoPoint(latE6[index] / E6, lngE6[index] / E6);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        writeVarint(data, latE6.length);
+        writeVarint(data, routeInfo.totalDistanceMeters());
+        writeVarint(data, routeInfo.estimatedDurationMinutes());
+
+        int prevLat = 0;
+        int prevLng = 0;
+        for (int i = 0; i < latE6.length; i++) {
+            writeVarint(data, zigzag(latE6[i] - prevLat));
+            writeVarint(data, zigzag(lngE6[i] - prevLng));
+            prevLat = latE6[i];
+            prevLng = lngE6[i];
+        }
+
+        writeVarint(data, waypointIndices.length);
+        int prevIndex = 0;
+        for (int index : waypointIndices) {
+            writeVarint(data, index - prevIndex);
+            prevIndex = index;
+        }
+        data.flush();
+    }
+
+    public static CompactCourse readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("코스 캐시 형식이 아닙니다");
+        }
+        int size = readCount(data, MAX_POINTS, "포인트 수");
+        long distance = readVarint(data);
+        long duration = readVarint(data);
+
+        int[] lat = new int[size];
+        int[] lng = new int[size];
+        int prevLat = 0;
+        int prevLng = 0;
+        for (int i = 0; i < size; i++) {
+            prevLat += unzigzag(readVarint(data));
+            prevLng += unzigzag(readVarint(data));
+            lat[i] = prevLat;
+            lng[i] = prevLng;
+        }
+
+        int[] indices = new int[readCount(data, size, "경유지 수")];
+        long prevIndex = 0;
+        for (int i = 0; i < indices.length; i++) {
+            prevIndex += readVarint(data);
+            if (prevIndex < 0 || prevIndex >= size) {
+                throw new IOException("경유지 인덱스가 범위를 벗어났습니다: " + prevIndex);
+            }
+            indices[i] = (int) prevIndex;
+        }
+
+        return new CompactCourse(lat, lng, new RouteInfo(distance, duration, size), indices);
+    }
+
+    private static int readCount(DataInputStream in, int max, String name) throws IOException {
+        long count = readVarint(in);
+        if (count < 0 || count > max) {
+            throw new IOException(name + "가 올바르지 않습니다: " + count);
+        }
+        return (int) count;
+    }
+
+    private static long zigzag(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+
+    private static int unzigzag(long value) {
+        int v = (int) value;
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static void writeVarint(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarint(DataInputStream in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("잘못된 varint");
+    }
+}
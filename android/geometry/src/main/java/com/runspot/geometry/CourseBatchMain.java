@@ -0,0 +1,60 @@
+package com.runspot.geometry;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 코스 캐시 일괄 생성 CLI (관리자 대량 등록 / 캐시 사전 빌드용)
+ *
+ * 사용법: CourseBatchMain &lt;gpx 디렉터리&gt; &lt;출력 디렉터리&gt; [병렬 수]
+ */
+public final class CourseBatchMain {
+
+    private static final String USAGE = "사용법: CourseBatchMain <gpx 디렉터리> <출력 디렉터리> [병렬 수]";
+
+    private CourseBatchMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        Path gpxDir = Paths.get(args[0]);
+        Path outputDir = Paths.get(args[1]);
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        if (args.length > 2) {
+            try {
+                parallelism = Integer.parseInt(args[2].trim());
+            } catch (NumberFormatException e) {
+                parallelism = 0;
+            }
+            if (parallelism < 1) {
+                System.err.println("❌ 병렬 수는 1 이상의 정수여야 합니다: " + args[2]);
+                System.err.println(USAGE);
+                System.exit(2);
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            CourseBatchProcessor.Result result = new CourseBatchProcessor(pool, CourseBatchProcessor.DEFAULT_MAX_WAYPOINTS)
+                .processDirectory(gpxDir, outputDir);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            System.out.println("✅ 코스 전처리 완료: " + result.processed() + "개 코스, "
+                + result.totalPoints() + "개 포인트, " + elapsedMs + "ms (병렬 " + parallelism + ")");
+            for (String failure : result.failures()) {
+                System.err.println("❌ " + failure);
+            }
+            if (!result.failures().isEmpty()) {
+                System.exit(1);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.runspot.geometry;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * GPX 코스 카탈로그 일괄 전처리 (fork/join)
+ *
+ * 디렉터리의 모든 .gpx 파일을 CPU 코어 수만큼 병렬로 파싱해 CompactCourse(.rsc)로 저장한다.
+ * 파일 하나가 실패해도 나머지는 계속 처리하고, 실패 목록은 Result 로 돌려준다.
+ *
+ * java.nio.file (Android API 26+) 을 사용하므로 빌드 머신 전용이다 (앱에서는 사용하지 않음).
+ */
+public final class CourseBatchProcessor {
+
+    /** 캐시에 저장할 최적화 경유지 수 (optimizeWaypoints 기본값과 동일) */
+    public static final int DEFAULT_MAX_WAYPOINTS = 8;
+
+    /** 이 개수 이하의 파일은 더 나누지 않고 한 작업에서 처리 */
+    private static final int FILES_PER_TASK = 2;
+
+    /**
+     * 일괄 처리 결과
+     */
+    public static final class Result {
+        private final int processed;
+        private final long totalPoints;
+        private final List<String> failures;
+
+        Result(int processed, long totalPoints, List<String> failures) {
+            this.processed = processed;
+            this.totalPoints = totalPoints;
+            this.failures = failures;
+        }
+
+        public int processed() {
+            return processed;
+        }
+
+        public long totalPoints() {
+            return totalPoints;
+        }
+
+        public List<String> failures() {
+            return Collections.unmodifiableList(failures);
+        }
+
+        Result merge(Result other) {
+            List<String> merged = new ArrayList<>(failures);
+            merged.addAll(other.failures);
+            return new Result(processed + other.processed, totalPoints + other.totalPoints, merged);
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final int maxWaypoints;
+
+    public CourseBatchProcessor(ForkJoinPool pool, int maxWaypoints) {
+        this.pool = pool;
+        this.maxWaypoints = maxWaypoints;
+    }
+
+    public CourseBatchProcessor() {
+        this(ForkJoinPool.commonPool(), DEFAULT_MAX_WAYPOINTS);
+    }
+
+    /**
+     * gpxDir 의 모든 .gpx 파일(확장자 대소문자 무관)을 outputDir 에 같은 이름의 .rsc 파일로 변환
+     *
+     * a.gpx 와 a.GPX 처럼 같은 캐시 파일 이름이 되는 파일은 병렬 작업 전에 걸러 내고,
+     * 정렬 순서상 첫 번째 파일만 처리한 뒤 나머지는 실패로 보고한다.
+     */
+    public Result processDirectory(Path gpxDir, Path outputDir) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(gpxDir)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+                if (name.endsWith(".gpx") && Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+        Collections.sort(files);
+        Files.createDirectories(outputDir);
+
+        // 캐시 파일 이름 중복 검사 (대소문자를 구분하지 않는 파일 시스템도 고려)
+        List<Path> unique = new ArrayList<>();
+        List<String> duplicates = new ArrayList<>();
+        Map<String, Path> owners = new HashMap<>();
+        for (Path file : files) {
+            String cacheName = cacheFileName(file);
+            Path owner = owners.putIfAbsent(cacheName.toLowerCase(Locale.ROOT), file);
+            if (owner == null) {
+                unique.add(file);
+            } else {
+                duplicates.add(file.getFileName() + ": 캐시 파일 이름 중복 - " + cacheName
+                    + " (" + owner.getFileName() + ")");
+            }
+        }
+
+        Result skipped = new Result(0, 0, duplicates);
+        if (unique.isEmpty()) {
+            return skipped;
+        }
+        return pool.invoke(new CourseTask(unique, 0, unique.size(), outputDir)).merge(skipped);
+    }
+
+    /**
+     * GPX 파일 하나를 캐시 포맷으로 변환 (임시 파일에 쓴 뒤 교체)
+     *
+     * 캐시 이름 중복은 processDirectory 에서 미리 걸러 내므로 고정된 "이름.rsc.tmp" 를 사용한다.
+     * Files.createTempFile 은 POSIX 에서 항상 0600 으로 만들기 때문에 사용하지 않는다
+     * (캐시는 패키징 / 웹 서버 등 다른 사용자도 읽을 수 있어야 함).
+     */
+    public CompactCourse processFile(Path gpxFile, Path outputDir) throws IOException {
+        List<GeoPoint> points = GpxParser.parse(gpxFile);
+        if (points.size() < 2) {
+            throw new IOException("경로 포인트가 부족합니다: " + points.size());
+        }
+        CompactCourse course = CompactCourse.fromPoints(points, maxWaypoints);
+
+        Path target = outputDir.resolve(cacheFileName(gpxFile));
+        Path temp = outputDir.resolve(target.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                course.writeTo(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return course;
+    }
+
+    static String cacheFileName(Path gpxFile) {
+        String name = gpxFile.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return (dot > 0 ? name.substring(0, dot) : name) + CompactCourse.FILE_EXTENSION;
+    }
+
+    private final class CourseTask extends RecursiveTask<Result> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Path> files;
+        private final int from;
+        private final int to;
+        private final Path outputDir;
+
+        CourseTask(List<Path> files, int from, int to, Path outputDir) {
+            this.files = files;
+            this.from = from;
+            this.to = to;
+            this.outputDir = outputDir;
+        }
+
+        @Override
+        protected Result compute() {
+            if (to - from <= FILES_PER_TASK) {
+                return processRange();
+            }
+            int mid = (from + to) >>> 1;
+            CourseTask left = new CourseTask(files, from, mid, outputDir);
+            CourseTask right = new CourseTask(files, mid, to, outputDir);
+            left.fork();
+            Result rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+
+        private Result processRange() {
+            int processed = 0;
+            long totalPoints = 0;
+            List<String> failures = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                Path file = files.get(i);
+                try {
+                    totalPoints += processFile(file, outputDir).pointCount();
+                    processed++;
+                } catch (IOException | RuntimeException e) {
+                    failures.add(file.getFileName() + ": " + e.getMessage());
+                }
+            }
+            return new Result(processed, totalPoints, failures);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.runspot.geometry;
+
+/**
+ * 구면 거리 계산 (routeOptimization.ts 의 calculateDistance 와 동일한 공식)
+ */
+public final class GeoMath {
+
+    /** 지구 반지름 (미터) */
+    public static final double EARTH_RADIUS_METERS = 6371000.0;
+
+    private GeoMath() {
+    }
+
+    /**
+     * 두 GPS 포인트 간 거리 계산 (Haversine formula, 미터)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        double deltaLatRad = Math.toRadians(lat2 - lat1);
+        double deltaLngRad = Math.toRadians(lng2 - lng1);
+
+        double sinLat = Math.sin(deltaLatRad / 2);
+        double sinLng = Math.sin(deltaLngRad / 2);
+        double a = sinLat * sinLat + Math.cos(lat1Rad) * Math.cos(lat2Rad) * sinLng * sinLng;
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_METERS * c;
+    }
+
+    public static double distanceMeters(GeoPoint p1, GeoPoint p2) {
+        return distanceMeters(p1.lat(), p1.lng(), p2.lat(), p2.lng());
+    }
+}
@@ -0,0 +1,45 @@
+package com.runspot.geometry;
+
+/**
+ * GPS 좌표 (위도 / 경도, WGS84)
+ */
+public final class GeoPoint {
+
+    private final double lat;
+    private final double lng;
+
+    public GeoPoint(double lat, double lng) {
+        this.lat = lat;
+        this.lng = lng;
+    }
+
+    public double lat() {
+        return lat;
+    }
+
+    public double lng() {
+        return lng;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GeoPoint)) {
+            return false;
+        }
+        GeoPoint other = (GeoPoint) o;
+        return Double.compare(lat, other.lat) == 0 && Double.compare(lng, other.lng) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(lat) + Double.hashCode(lng);
+    }
+
+    @Override
+    public String toString() {
+        return lat + "," + lng;
+    }
+}
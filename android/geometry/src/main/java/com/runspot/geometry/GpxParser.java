@@ -0,0 +1,124 @@
+package com.runspot.geometry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GPX 트랙 포인트 파서
+ *
+ * javax.xml.stream 은 Android 에 없으므로 XML 파서 없이 trkpt / wpt 태그의 lat, lon 속성만 읽는다.
+ * 웹 파서(src/utils/gpxParser.ts)와 같은 결과를 내도록 트랙(trkpt)이 있으면 트랙을, 없으면 wpt 를
+ * 사용하고, 위도나 경도가 정확히 0 인 포인트는 건너뛴다.
+ * 웹 파서와 달리 속성이 없거나 숫자가 아니거나 범위(위도 ±90, 경도 ±180)를 벗어난 포인트는
+ * 조용히 버리지 않고 IOException 으로 실패시킨다 (손상된 코스가 캐시에 들어가지 않도록).
+ *
+ * parse(String) 은 Android 에서도 사용 가능하지만, parse(Path) 는 java.nio.file (API 26+) 을
+ * 사용하므로 빌드 머신(CourseBatchProcessor) 전용이다.
+ */
+public final class GpxParser {
+
+    private GpxParser() {
+    }
+
+    /**
+     * 빌드 머신 전용 (java.nio.file, Android API 26+)
+     */
+    public static List<GeoPoint> parse(Path file) throws IOException {
+        return parse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+    public static List<GeoPoint> parse(String gpx) throws IOException {
+        List<GeoPoint> points = parseTag(gpx, "<trkpt");
+        if (points.isEmpty()) {
+            // 트랙 포인트가 없는 경우 wpt 사용 (gpxParser.ts 와 동일)
+            points = parseTag(gpx, "<wpt");
+        }
+        return points;
+    }
+
+    private static List<GeoPoint> parseTag(String gpx, String tag) throws IOException {
+        List<GeoPoint> points = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int start = gpx.indexOf(tag, from);
+            if (start < 0) {
+                break;
+            }
+            // "<trkptx" 처럼 태그 이름이 더 긴 경우 건너뜀
+            int after = start + tag.length();
+            if (after < gpx.length() && !isTagNameEnd(gpx.charAt(after))) {
+                from = after;
+                continue;
+            }
+            int end = gpx.indexOf('>', start);
+            if (end < 0) {
+                throw new IOException("닫히지 않은 " + tag + "> 태그 (offset " + start + ")");
+            }
+            double lat = parseAttribute(gpx, start, end, "lat");
+            double lon = parseAttribute(gpx, start, end, "lon");
+            if (lat < -90.0 || lat > 90.0 || lon < -180.0 || lon > 180.0) {
+                throw new IOException("좌표 범위를 벗어났습니다: " + lat + "," + lon + " (offset " + start + ")");
+            }
+            // 위도나 경도가 0 인 포인트는 웹 파서와 동일하게 제외
+            if (lat != 0.0 && lon != 0.0) {
+                points.add(new GeoPoint(lat, lon));
+            }
+            from = end + 1;
+        }
+        return points;
+    }
+
+    private static double parseAttribute(String gpx, int start, int end, String name) throws IOException {
+        int pos = start;
+        while (true) {
+            int at = gpx.indexOf(name, pos);
+            if (at < 0 || at >= end) {
+                throw new IOException(name + " 속성이 없습니다 (offset " + start + ")");
+            }
+            pos = at + name.length();
+            // "lat" 이 다른 속성 이름의 일부인 경우 건너뜀
+            if (!Character.isWhitespace(gpx.charAt(at - 1))) {
+                continue;
+            }
+            int eq = skipWhitespace(gpx, pos);
+            if (eq >= end || gpx.charAt(eq) != '=') {
+                continue;
+            }
+            int quote = skipWhitespace(gpx, eq + 1);
+            char quoteChar = gpx.charAt(quote);
+            if (quoteChar != '"' && quoteChar != '\'') {
+                throw new IOException(name + " 속성 값 형식 오류 (offset " + start + ")");
+            }
+            int close = gpx.indexOf(quoteChar, quote + 1);
+            if (close < 0 || close > end) {
+                throw new IOException(name + " 속성 값이 닫히지 않았습니다 (offset " + start + ")");
+            }
+            double value;
+            try {
+                value = Double.parseDouble(gpx.substring(quote + 1, close).trim());
+            } catch (NumberFormatException e) {
+                throw new IOException(name + " 속성 값이 숫자가 아닙니다 (offset " + start + ")", e);
+            }
+            // Double.parseDouble 은 "NaN", "Infinity" 도 받아들이므로 별도로 거부
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                throw new IOException(name + " 속성 값이 유한한 숫자가 아닙니다 (offset " + start + ")");
+            }
+            return value;
+        }
+    }
+
+    private static boolean isTagNameEnd(char c) {
+        return Character.isWhitespace(c) || c == '/' || c == '>';
+    }
+
+    private static int skipWhitespace(String s, int pos) {
+        while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,35 @@
+package com.runspot.geometry;
+
+/**
+ * 경로 정보 요약 (routeOptimization.ts 의 getRouteInfo 결과와 동일)
+ */
+public final class RouteInfo {
+
+    private final long totalDistanceMeters;
+    private final long estimatedDurationMinutes;
+    private final int waypointCount;
+
+    public RouteInfo(long totalDistanceMeters, long estimatedDurationMinutes, int waypointCount) {
+        this.totalDistanceMeters = totalDistanceMeters;
+        this.estimatedDurationMinutes = estimatedDurationMinutes;
+        this.waypointCount = waypointCount;
+    }
+
+    public long totalDistanceMeters() {
+        return totalDistanceMeters;
+    }
+
+    public long estimatedDurationMinutes() {
+        return estimatedDurationMinutes;
+    }
+
+    public int waypointCount() {
+        return waypointCount;
+    }
+
+    @Override
+    public String toString() {
+        return "RouteInfo{distance=" + totalDistanceMeters + "m, duration=" + estimatedDurationMinutes
+            + "min, points=" + waypointCount + "}";
+    }
+}
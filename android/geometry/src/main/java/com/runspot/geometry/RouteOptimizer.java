@@ -0,0 +1,171 @@
+package com.runspot.geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GPX 경로 경유지 추출 / 최적화 (src/services/routeOptimization.ts 의 Java 포팅)
+ */
+public final class RouteOptimizer {
+
+    /** 예상 시간 계산용 평균 속도 (km/h, getRouteInfo 와 동일) */
+    private static final double AVERAGE_SPEED_KMH = 15.0;
+
+    private RouteOptimizer() {
+    }
+
+    /**
+     * GPX 경로에서 주요 경유지 추출 (균등 간격)
+     */
+    public static List<GeoPoint> extractWaypoints(List<GeoPoint> route, int maxWaypoints) {
+        if (route.size() <= 2) {
+            return new ArrayList<>(route);
+        }
+
+        // 시작점과 끝점은 항상 포함
+        List<GeoPoint> waypoints = new ArrayList<>();
+        waypoints.add(route.get(0));
+
+        if (maxWaypoints <= 2) {
+            waypoints.add(route.get(route.size() - 1));
+            return waypoints;
+        }
+
+        // 경로를 균등하게 나누어 경유지 선택 (포인트 수가 적어도 간격은 최소 1)
+        int totalPoints = route.size();
+        int interval = Math.max(1, totalPoints / (maxWaypoints - 1));
+
+        for (int i = interval; i < totalPoints - 1; i += interval) {
+            waypoints.add(route.get(i));
+        }
+
+        // 끝점 추가
+        waypoints.add(route.get(totalPoints - 1));
+        return waypoints;
+    }
+
+    /**
+     * 모든 GPX 포인트를 경유지로 사용 (거리 기반 필터링)
+     */
+    public static List<GeoPoint> extractAllWaypoints(List<GeoPoint> route, double minDistanceMeters) {
+        if (route.size() <= 2) {
+            return new ArrayList<>(route);
+        }
+
+        List<GeoPoint> waypoints = new ArrayList<>();
+        GeoPoint lastWaypoint = route.get(0);
+        waypoints.add(lastWaypoint);
+
+        // 최소 거리 이상 떨어진 포인트들만 경유지로 추가
+        for (int i = 1; i < route.size() - 1; i++) {
+            GeoPoint current = route.get(i);
+            if (GeoMath.distanceMeters(lastWaypoint, current) >= minDistanceMeters) {
+                waypoints.add(current);
+                lastWaypoint = current;
+            }
+        }
+
+        // 끝점 추가 (끝점은 절반 거리만 확인)
+        GeoPoint endPoint = route.get(route.size() - 1);
+        if (GeoMath.distanceMeters(lastWaypoint, endPoint) >= minDistanceMeters / 2) {
+            waypoints.add(endPoint);
+        }
+
+        return waypoints;
+    }
+
+    /**
+     * 더 정교한 경유지 최적화 (중요한 방향 전환점 우선)
+     */
+    public static List<GeoPoint> optimizeWaypoints(List<GeoPoint> route, int maxWaypoints) {
+        int[] indices = optimizeWaypointIndices(route, maxWaypoints);
+        List<GeoPoint> waypoints = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            waypoints.add(route.get(index));
+        }
+        return waypoints;
+    }
+
+    /**
+     * optimizeWaypoints 와 동일하지만 선택된 포인트의 경로 내 인덱스를 반환 (캐시 포맷용)
+     */
+    public static int[] optimizeWaypointIndices(List<GeoPoint> route, int maxWaypoints) {
+        int size = route.size();
+        if (size <= maxWaypoints) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        // 각 포인트의 중요도 계산
+        int candidateCount = size - 2;
+        double[] scores = new double[candidateCount];
+        Integer[] order = new Integer[candidateCount];
+        for (int i = 1; i < size - 1; i++) {
+            GeoPoint prev = route.get(i - 1);
+            GeoPoint current = route.get(i);
+            GeoPoint next = route.get(i + 1);
+
+            // 방향 변화 계산 (각도 변화가 클수록 중요한 경유지)
+            double angle1 = Math.atan2(current.lat() - prev.lat(), current.lng() - prev.lng());
+            double angle2 = Math.atan2(next.lat() - current.lat(), next.lng() - current.lng());
+            double angleDiff = Math.abs(angle2 - angle1);
+
+            // 각도 차이를 0-π 범위로 정규화
+            if (angleDiff > Math.PI) {
+                angleDiff = 2 * Math.PI - angleDiff;
+            }
+
+            // 거리 기반 가중치 (100m 이상일 때 최대 가중치)
+            double minDistance = Math.min(
+                GeoMath.distanceMeters(prev, current),
+                GeoMath.distanceMeters(current, next)
+            );
+
+            scores[i - 1] = angleDiff * Math.min(minDistance / 100, 1);
+            order[i - 1] = i;
+        }
+
+        // 중요도 순으로 정렬 후 상위 포인트 선택 (시작점, 끝점 제외)
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b - 1], scores[a - 1]));
+        int selectedCount = Math.max(0, Math.min(maxWaypoints - 2, candidateCount));
+        int[] selected = new int[selectedCount];
+        for (int i = 0; i < selectedCount; i++) {
+            selected[i] = order[i];
+        }
+        // 경로 순서대로 정렬
+        Arrays.sort(selected);
+
+        int[] indices = new int[selectedCount + 2];
+        indices[0] = 0;
+        System.arraycopy(selected, 0, indices, 1, selectedCount);
+        indices[indices.length - 1] = size - 1;
+        return indices;
+    }
+
+    /**
+     * 경로 총 거리 (미터)
+     */
+    public static double totalDistanceMeters(List<GeoPoint> route) {
+        double total = 0;
+        for (int i = 1; i < route.size(); i++) {
+            total += GeoMath.distanceMeters(route.get(i - 1), route.get(i));
+        }
+        return total;
+    }
+
+    /**
+     * 경로 정보 요약
+     */
+    public static RouteInfo getRouteInfo(List<GeoPoint> route) {
+        double totalDistance = totalDistanceMeters(route);
+
+        // 평균 속도로 예상 시간 계산 (분 단위)
+        double estimatedDuration = (totalDistance / 1000) / AVERAGE_SPEED_KMH * 60;
+
+        return new RouteInfo(Math.round(totalDistance), Math.round(estimatedDuration), route.size());
+    }
+}
@@ -0,0 +1,135 @@
+package com.runspot.geometry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+public class CompactCourseTest {
+
+    // 1e-6 도 단위로 정확히 표현되는 좌표 (음수 차이, 위도 / 경도 0 통과, 경도 ±180 근처)
+    private static final List<GeoPoint> ROUTE = Arrays.asList(
+        new GeoPoint(0.000002, 179.999999),
+        new GeoPoint(-0.000001, 179.5),
+        new GeoPoint(-45.123456, -179.999999),
+        new GeoPoint(12.5, -0.000003),
+        new GeoPoint(-12.5, 0.000004)
+    );
+
+    private static CompactCourse roundTrip(CompactCourse course) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        course.writeTo(out);
+        return CompactCourse.readFrom(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static void assertSamePoints(List<GeoPoint> expected, List<GeoPoint> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).lat(), actual.get(i).lat(), 1e-9);
+            assertEquals(expected.get(i).lng(), actual.get(i).lng(), 1e-9);
+        }
+    }
+
+    @Test
+    public void roundTrip_preservesPointsSummaryAndWaypoints() throws IOException {
+        CompactCourse course = CompactCourse.fromPoints(ROUTE, 3);
+        CompactCourse read = roundTrip(course);
+
+        assertSamePoints(ROUTE, read.points());
+        assertSamePoints(course.waypoints(), read.waypoints());
+        assertEquals(3, read.waypoints().size());
+        assertEquals(course.routeInfo().totalDistanceMeters(), read.routeInfo().totalDistanceMeters());
+        assertEquals(course.routeInfo().estimatedDurationMinutes(), read.routeInfo().estimatedDurationMinutes());
+        assertEquals(ROUTE.size(), read.routeInfo().waypointCount());
+    }
+
+    @Test
+    public void roundTrip_emptyWaypointList() throws IOException {
+        CompactCourse read = roundTrip(CompactCourse.fromPoints(ROUTE, 0));
+        assertSamePoints(ROUTE, read.points());
+        assertTrue(read.waypoints().isEmpty());
+    }
+
+    @Test
+    public void roundTrip_emptyRoute() throws IOException {
+        CompactCourse read = roundTrip(CompactCourse.fromPoints(Collections.<GeoPoint>emptyList(), 8));
+        assertEquals(0, read.pointCount());
+        assertTrue(read.waypoints().isEmpty());
+    }
+
+    @Test
+    public void readFrom_rejectsBadMagic() {
+        assertRejected(new byte[] {0, 0, 0, 0, 0});
+    }
+
+    @Test
+    public void readFrom_rejectsHugeOrNegativePointCount() throws IOException {
+        assertRejected(header(CompactCourse.MAX_POINTS + 1L));
+        assertRejected(header(-1L));
+    }
+
+    @Test
+    public void readFrom_rejectsWrappedWaypointIndex() throws IOException {
+        // 포인트 2개, 경유지 2개: 인덱스 차이 1 다음 Long.MAX_VALUE 를 더하면 음수로 넘침
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(header(2));
+        writeVarint(out, 0);
+        writeVarint(out, 0);
+        for (int i = 0; i < 4; i++) {
+            writeVarint(out, 2);
+        }
+        writeVarint(out, 2);
+        writeVarint(out, 1);
+        writeVarint(out, Long.MAX_VALUE);
+        assertRejected(bytes.toByteArray());
+    }
+
+    @Test
+    public void readFrom_rejectsWaypointIndexPastEnd() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(header(1));
+        writeVarint(out, 0);
+        writeVarint(out, 0);
+        writeVarint(out, 2);
+        writeVarint(out, 2);
+        writeVarint(out, 1);
+        writeVarint(out, 1);
+        assertRejected(bytes.toByteArray());
+    }
+
+    private static void assertRejected(byte[] data) {
+        try {
+            CompactCourse.readFrom(new ByteArrayInputStream(data));
+            fail("IOException 이 발생해야 합니다");
+        } catch (IOException expected) {
+            // 정상
+        }
+    }
+
+    /** MAGIC + 포인트 수 (거리 / 시간 / 좌표는 호출한 쪽에서 이어서 씀) */
+    private static byte[] header(long pointCount) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0x52534331);
+        writeVarint(out, pointCount);
+        return bytes.toByteArray();
+    }
+
+    private static void writeVarint(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
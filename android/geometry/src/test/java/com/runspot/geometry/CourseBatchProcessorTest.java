@@ -0,0 +1,98 @@
+package com.runspot.geometry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CourseBatchProcessorTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private ForkJoinPool pool;
+    private Path gpxDir;
+    private Path outputDir;
+    private Path bucheon;
+
+    @Before
+    public void setUp() throws IOException {
+        pool = new ForkJoinPool(2);
+        gpxDir = temp.newFolder("gpx").toPath();
+        outputDir = temp.getRoot().toPath().resolve("cache");
+        bucheon = Paths.get(System.getProperty("runspot.gpxDir", "../../public/gpx"), "bucheon.gpx");
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private CourseBatchProcessor.Result process() throws IOException {
+        return new CourseBatchProcessor(pool, CourseBatchProcessor.DEFAULT_MAX_WAYPOINTS)
+            .processDirectory(gpxDir, outputDir);
+    }
+
+    @Test
+    public void processDirectory_reportsBrokenFileAndKeepsGoodOne() throws IOException {
+        Files.copy(bucheon, gpxDir.resolve("good.gpx"));
+        Files.write(gpxDir.resolve("broken.gpx"),
+            "<gpx><trkpt lat=\"NaN\" lon=\"1\"/></gpx>".getBytes(StandardCharsets.UTF_8));
+
+        CourseBatchProcessor.Result result = process();
+
+        assertEquals(1, result.processed());
+        assertEquals(49, result.totalPoints());
+        assertEquals(1, result.failures().size());
+        assertTrue(result.failures().get(0).startsWith("broken.gpx"));
+
+        try (InputStream in = Files.newInputStream(outputDir.resolve("good.rsc"))) {
+            CompactCourse course = CompactCourse.readFrom(in);
+            assertEquals(49, course.pointCount());
+            assertEquals(4069, course.routeInfo().totalDistanceMeters());
+            assertEquals(8, course.waypoints().size());
+        }
+        // 캐시는 빌드 사용자 외에도 읽을 수 있어야 함 (umask 022 기준)
+        Path cache = outputDir.resolve("good.rsc");
+        if (Files.getFileAttributeView(cache, PosixFileAttributeView.class) != null) {
+            assertTrue(Files.getPosixFilePermissions(cache).contains(PosixFilePermission.OTHERS_READ));
+        }
+        assertFalse(Files.exists(outputDir.resolve("broken.rsc")));
+        for (File file : outputDir.toFile().listFiles()) {
+            assertFalse(file.getName(), file.getName().endsWith(".tmp"));
+        }
+    }
+
+    @Test
+    public void processDirectory_reportsDuplicateCacheNames() throws IOException {
+        Files.copy(bucheon, gpxDir.resolve("a.gpx"));
+        Files.copy(bucheon, gpxDir.resolve("b.Gpx"));
+        // 대소문자를 구분하는 파일 시스템에서만 a.gpx 와 a.GPX 를 함께 만들 수 있음
+        Path upper = gpxDir.resolve("a.GPX");
+        assumeFalse(Files.exists(upper));
+        Files.copy(bucheon, upper);
+
+        CourseBatchProcessor.Result result = process();
+
+        assertEquals(2, result.processed());
+        assertEquals(1, result.failures().size());
+        assertTrue(Files.exists(outputDir.resolve("a.rsc")));
+        assertTrue(Files.exists(outputDir.resolve("b.rsc")));
+    }
+}
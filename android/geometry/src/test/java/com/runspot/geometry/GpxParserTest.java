@@ -0,0 +1,63 @@
+package com.runspot.geometry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class GpxParserTest {
+
+    private static void assertRejected(String gpx) {
+        try {
+            GpxParser.parse(gpx);
+            fail("IOException 이 발생해야 합니다: " + gpx);
+        } catch (IOException expected) {
+            // 정상
+        }
+    }
+
+    @Test
+    public void parse_readsTrackPoints() throws IOException {
+        assertEquals(
+            Arrays.asList(new GeoPoint(37.5, 126.8), new GeoPoint(37.6, 126.9)),
+            GpxParser.parse("<trk><trkseg><trkpt lat=\"37.5\" lon='126.8'/>"
+                + "<trkpt lon=\"126.9\" lat=\"37.6\"><ele>1</ele></trkpt></trkseg></trk>")
+        );
+    }
+
+    @Test
+    public void parse_rejectsNonFiniteAndOutOfRangeValues() {
+        assertRejected("<trkpt lat=\"NaN\" lon=\"1\"/>");
+        assertRejected("<trkpt lat=\"1\" lon=\"Infinity\"/>");
+        assertRejected("<trkpt lat=\"90.5\" lon=\"1\"/>");
+        assertRejected("<trkpt lat=\"1\" lon=\"-180.1\"/>");
+        assertRejected("<trkpt lat=\"abc\" lon=\"1\"/>");
+        assertRejected("<trkpt lon=\"1\"/>");
+    }
+
+    @Test
+    public void parse_ignoresLongerTagNames() throws IOException {
+        assertEquals(
+            Arrays.asList(new GeoPoint(1, 2)),
+            GpxParser.parse("<trkptx lat=\"NaN\" lon=\"x\"/><trkpt lat=\"1\" lon=\"2\"/>")
+        );
+    }
+
+    @Test
+    public void parse_fallsBackToWptLikeWebParser() throws IOException {
+        assertEquals(
+            Arrays.asList(new GeoPoint(3, 4)),
+            GpxParser.parse("<wpt lat=\"3\" lon=\"4\"/><rte><rtept lat=\"5\" lon=\"6\"/></rte>")
+        );
+    }
+
+    @Test
+    public void parse_skipsZeroCoordinatesLikeWebParser() throws IOException {
+        assertEquals(
+            Arrays.asList(new GeoPoint(1, 1)),
+            GpxParser.parse("<trkpt lat=\"0\" lon=\"5\"/><trkpt lat=\"1\" lon=\"1\"/>")
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package com.runspot.geometry;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * routeOptimization.ts 를 public/gpx/bucheon.gpx 에 실행한 결과와 비교
+ */
+public class RouteOptimizerTest {
+
+    private List<GeoPoint> route;
+
+    @Before
+    public void loadBucheon() throws Exception {
+        Path gpxDir = Paths.get(System.getProperty("runspot.gpxDir", "../../public/gpx"));
+        route = GpxParser.parse(gpxDir.resolve("bucheon.gpx"));
+    }
+
+    private List<GeoPoint> at(int... indices) {
+        List<GeoPoint> points = new ArrayList<>();
+        for (int index : indices) {
+            points.add(route.get(index));
+        }
+        return points;
+    }
+
+    @Test
+    public void getRouteInfo_matchesWeb() {
+        RouteInfo info = RouteOptimizer.getRouteInfo(route);
+        assertEquals(49, route.size());
+        assertEquals(4069, info.totalDistanceMeters());
+        assertEquals(16, info.estimatedDurationMinutes());
+        assertEquals(49, info.waypointCount());
+    }
+
+    @Test
+    public void optimizeWaypoints_matchesWeb() {
+        assertEquals(at(0, 4, 20, 21, 33, 36, 37, 48), RouteOptimizer.optimizeWaypoints(route, 8));
+    }
+
+    @Test
+    public void extractWaypoints_matchesWeb() {
+        assertEquals(
+            at(0, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 22, 24, 26, 28, 30, 32, 34, 36, 38, 40, 42, 44, 46, 48),
+            RouteOptimizer.extractWaypoints(route, 20)
+        );
+    }
+
+    @Test
+    public void extractAllWaypoints_matchesWeb() {
+        assertEquals(
+            at(0, 4, 5, 6, 7, 8, 9, 10, 11, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27,
+                33, 34, 35, 36, 37, 38, 40, 41, 42, 43, 45),
+            RouteOptimizer.extractAllWaypoints(route, 30)
+        );
+    }
+
+    @Test
+    public void extractWaypoints_fewerPointsThanRequested_terminates() {
+        List<GeoPoint> shortRoute = route.subList(0, 5);
+        assertEquals(shortRoute, RouteOptimizer.extractWaypoints(shortRoute, 20));
+    }
+}